@@ -4,8 +4,10 @@ import com.examen.branches_api.dto.BranchHolidayRequest;
 import com.examen.branches_api.dto.BranchRequest;
 import com.examen.branches_api.dto.BranchResponse;
 import com.examen.branches_api.dto.HolidayCheckResponse;
+import com.examen.branches_api.dto.HolidayRuleRequest;
 import com.examen.branches_api.dto.PhoneUpdateRequest;
 import com.examen.branches_api.model.BranchHoliday;
+import com.examen.branches_api.model.HolidayRule;
 import com.examen.branches_api.service.BranchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -147,4 +150,78 @@ public class BranchController {
         log.info("API: Date {} is {} for branch {}", date, response.isHoliday() ? "a holiday" : "not a holiday", id);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "Crear reglas de feriados recurrentes", description = "Agrega reglas de feriados que se repiten cada año (fecha fija, n-ésimo día de la semana o relativas a Pascua)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Reglas creadas exitosamente"),
+            @ApiResponse(responseCode = "404", description = "Sucursal no encontrada"),
+            @ApiResponse(responseCode = "400", description = "Datos de reglas inválidos")
+    })
+    @PostMapping("/{id}/holiday-rule")
+    public ResponseEntity<BranchResponse> addHolidayRules(
+            @Parameter(description = "ID de la sucursal") @PathVariable String id,
+            @Valid @RequestBody List<@NotNull(message = "Holiday rule is required") HolidayRuleRequest> rules) {
+        log.info("API: POST /api/branches_api/v1/branch/{}/holiday-rule - Adding {} holiday rules", id, rules.size());
+        BranchResponse response = this.branchService.addHolidayRules(id, rules);
+        log.info("API: Holiday rules added to branch: {}", response.getName());
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Eliminar regla de feriado de una sucursal", description = "Elimina una regla de feriado recurrente por su nombre")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Regla eliminada exitosamente"),
+            @ApiResponse(responseCode = "404", description = "Sucursal o regla no encontrada")
+    })
+    @DeleteMapping("/{id}/holiday-rule/{name}")
+    public ResponseEntity<BranchResponse> deleteHolidayRule(
+            @Parameter(description = "ID de la sucursal") @PathVariable String id,
+            @Parameter(description = "Nombre de la regla") @PathVariable String name) {
+        log.info("API: DELETE /api/branches_api/v1/branch/{}/holiday-rule/{} - Deleting holiday rule", id, name);
+        BranchResponse response = this.branchService.deleteHolidayRule(id, name);
+        log.info("API: Holiday rule deleted from branch: {}", response.getName());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Obtener reglas de feriados de una sucursal", description = "Retorna las reglas de feriados recurrentes propias de una sucursal")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de reglas obtenida exitosamente"),
+            @ApiResponse(responseCode = "404", description = "Sucursal no encontrada")
+    })
+    @GetMapping("/{id}/holiday-rule")
+    public ResponseEntity<List<HolidayRule>> getHolidayRules(
+            @Parameter(description = "ID de la sucursal") @PathVariable String id) {
+        log.info("API: GET /api/branches_api/v1/branch/{}/holiday-rule - Fetching holiday rules", id);
+        List<HolidayRule> rules = this.branchService.getHolidayRules(id);
+        log.info("API: Returning {} holiday rules", rules.size());
+        return ResponseEntity.ok(rules);
+    }
+
+    @Operation(summary = "Asignar calendario de feriados", description = "Asocia una plantilla de calendario compartida a una sucursal")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calendario asignado exitosamente"),
+            @ApiResponse(responseCode = "404", description = "Sucursal o calendario no encontrado")
+    })
+    @PutMapping("/{id}/calendar/{calendarId}")
+    public ResponseEntity<BranchResponse> assignCalendar(
+            @Parameter(description = "ID de la sucursal") @PathVariable String id,
+            @Parameter(description = "ID del calendario de feriados") @PathVariable String calendarId) {
+        log.info("API: PUT /api/branches_api/v1/branch/{}/calendar/{} - Assigning holiday calendar", id, calendarId);
+        BranchResponse response = this.branchService.assignCalendar(id, calendarId);
+        log.info("API: Holiday calendar assigned to branch: {}", response.getName());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Desasignar calendario de feriados", description = "Quita la plantilla de calendario asociada a una sucursal")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calendario desasignado exitosamente"),
+            @ApiResponse(responseCode = "404", description = "Sucursal no encontrada o sin calendario asignado")
+    })
+    @DeleteMapping("/{id}/calendar")
+    public ResponseEntity<BranchResponse> unassignCalendar(
+            @Parameter(description = "ID de la sucursal") @PathVariable String id) {
+        log.info("API: DELETE /api/branches_api/v1/branch/{}/calendar - Unassigning holiday calendar", id);
+        BranchResponse response = this.branchService.unassignCalendar(id);
+        log.info("API: Holiday calendar unassigned from branch: {}", response.getName());
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,68 @@
+package com.examen.branches_api.controller;
+
+import com.examen.branches_api.dto.HolidayCalendarRequest;
+import com.examen.branches_api.dto.HolidayCalendarResponse;
+import com.examen.branches_api.service.HolidayCalendarService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/branches_api/v1/holiday-calendar")
+@AllArgsConstructor
+@Tag(name = "Holiday Calendar Management", description = "API para gestionar plantillas de calendarios de feriados compartidas entre sucursales")
+public class HolidayCalendarController {
+
+    private final HolidayCalendarService holidayCalendarService;
+
+    @Operation(summary = "Obtener todos los calendarios", description = "Retorna un listado de todas las plantillas de calendarios de feriados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de calendarios obtenida exitosamente")
+    })
+    @GetMapping
+    public ResponseEntity<List<HolidayCalendarResponse>> getAllCalendars() {
+        log.info("API: GET /api/branches_api/v1/holiday-calendar - Fetching all holiday calendars");
+        List<HolidayCalendarResponse> calendars = this.holidayCalendarService.getAllCalendars();
+        log.info("API: Returning {} holiday calendars", calendars.size());
+        return ResponseEntity.ok(calendars);
+    }
+
+    @Operation(summary = "Crear un calendario de feriados", description = "Crea una plantilla de calendario con reglas de feriados recurrentes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Calendario creado exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos")
+    })
+    @PostMapping
+    public ResponseEntity<HolidayCalendarResponse> createCalendar(
+            @Valid @RequestBody HolidayCalendarRequest request) {
+        log.info("API: POST /api/branches_api/v1/holiday-calendar - Creating new holiday calendar: {}", request.getName());
+        HolidayCalendarResponse response = this.holidayCalendarService.createCalendar(request);
+        log.info("API: Holiday calendar created with ID: {}", response.getId());
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Obtener calendario por ID", description = "Retorna una plantilla de calendario de feriados específica por su ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calendario encontrado"),
+            @ApiResponse(responseCode = "404", description = "Calendario no encontrado")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<HolidayCalendarResponse> getCalendarById(
+            @Parameter(description = "ID del calendario") @PathVariable String id) {
+        log.info("API: GET /api/branches_api/v1/holiday-calendar/{} - Fetching holiday calendar", id);
+        HolidayCalendarResponse response = this.holidayCalendarService.getCalendarById(id);
+        log.info("API: Holiday calendar found: {}", response.getName());
+        return ResponseEntity.ok(response);
+    }
+}
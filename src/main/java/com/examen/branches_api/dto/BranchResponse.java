@@ -1,6 +1,7 @@
 package com.examen.branches_api.dto;
 
 import com.examen.branches_api.model.BranchHoliday;
+import com.examen.branches_api.model.HolidayRule;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -19,4 +20,6 @@ public class BranchResponse {
     private LocalDateTime creationDate;
     private LocalDateTime lastModifiedDate;
     private List<BranchHoliday> branchHolidays;
+    private List<HolidayRule> holidayRules;
+    private String calendarId;
 }
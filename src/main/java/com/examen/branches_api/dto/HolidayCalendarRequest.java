@@ -0,0 +1,21 @@
+package com.examen.branches_api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class HolidayCalendarRequest {
+
+    @NotBlank(message = "Calendar name is required")
+    private String name;
+
+    @NotEmpty(message = "At least one rule is required")
+    private List<@NotNull(message = "Holiday rule is required") @Valid HolidayRuleRequest> rules;
+}
@@ -0,0 +1,18 @@
+package com.examen.branches_api.dto;
+
+import com.examen.branches_api.model.HolidayRule;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+public class HolidayCalendarResponse {
+
+    private String id;
+    private String name;
+    private LocalDateTime creationDate;
+    private List<HolidayRule> rules;
+}
@@ -0,0 +1,40 @@
+package com.examen.branches_api.dto;
+
+import com.examen.branches_api.model.HolidayRuleType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+
+@Getter
+@Setter
+public class HolidayRuleRequest {
+
+    @NotBlank(message = "Holiday name is required")
+    private String name;
+
+    @NotNull(message = "Rule type is required")
+    private HolidayRuleType type;
+
+    @Min(value = 1, message = "Month must be between 1 and 12")
+    @Max(value = 12, message = "Month must be between 1 and 12")
+    private Integer month;
+
+    @Min(value = 1, message = "Day of month must be between 1 and 31")
+    @Max(value = 31, message = "Day of month must be between 1 and 31")
+    private Integer dayOfMonth;
+
+    private DayOfWeek dayOfWeek;
+
+    @Min(value = -1, message = "Week of month must be between 1 and 5, or -1 for the last week")
+    @Max(value = 5, message = "Week of month must be between 1 and 5, or -1 for the last week")
+    private Integer weekOfMonth;
+
+    @Min(value = -80, message = "Easter offset must be between -80 and 200 days")
+    @Max(value = 200, message = "Easter offset must be between -80 and 200 days")
+    private Integer easterOffset;
+}
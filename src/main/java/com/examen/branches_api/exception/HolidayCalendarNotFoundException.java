@@ -0,0 +1,8 @@
+package com.examen.branches_api.exception;
+
+public class HolidayCalendarNotFoundException extends RuntimeException {
+
+    public HolidayCalendarNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.examen.branches_api.exception;
+
+public class InvalidHolidayRuleException extends RuntimeException {
+
+    public InvalidHolidayRuleException(String message) {
+        super(message);
+    }
+}
@@ -22,6 +22,8 @@ public class BranchMapperImpl implements BranchMapper {
         response.setCreationDate(branch.getCreationDate());
         response.setLastModifiedDate(branch.getLastModifiedDate());
         response.setBranchHolidays(branch.getBranchHolidays());
+        response.setHolidayRules(branch.getHolidayRules());
+        response.setCalendarId(branch.getCalendarId());
         return response;
     }
 
@@ -35,6 +37,7 @@ public class BranchMapperImpl implements BranchMapper {
         branch.setCreationDate(LocalDateTime.now());
         branch.setLastModifiedDate(LocalDateTime.now());
         branch.setBranchHolidays(new ArrayList<>());
+        branch.setHolidayRules(new ArrayList<>());
         return branch;
     }
 }
@@ -0,0 +1,16 @@
+package com.examen.branches_api.mapper;
+
+import com.examen.branches_api.dto.HolidayCalendarRequest;
+import com.examen.branches_api.dto.HolidayCalendarResponse;
+import com.examen.branches_api.dto.HolidayRuleRequest;
+import com.examen.branches_api.model.HolidayCalendar;
+import com.examen.branches_api.model.HolidayRule;
+
+public interface HolidayCalendarMapper {
+
+    HolidayCalendarResponse toResponse(HolidayCalendar calendar);
+
+    HolidayCalendar toEntity(HolidayCalendarRequest request);
+
+    HolidayRule toRule(HolidayRuleRequest request);
+}
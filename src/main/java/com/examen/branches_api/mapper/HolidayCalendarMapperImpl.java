@@ -0,0 +1,49 @@
+package com.examen.branches_api.mapper;
+
+import com.examen.branches_api.dto.HolidayCalendarRequest;
+import com.examen.branches_api.dto.HolidayCalendarResponse;
+import com.examen.branches_api.dto.HolidayRuleRequest;
+import com.examen.branches_api.model.HolidayCalendar;
+import com.examen.branches_api.model.HolidayRule;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+
+@Component
+public class HolidayCalendarMapperImpl implements HolidayCalendarMapper {
+
+    @Override
+    public HolidayCalendarResponse toResponse(HolidayCalendar calendar) {
+        HolidayCalendarResponse response = new HolidayCalendarResponse();
+        response.setId(calendar.getId());
+        response.setName(calendar.getName());
+        response.setCreationDate(calendar.getCreationDate());
+        response.setRules(calendar.getRules());
+        return response;
+    }
+
+    @Override
+    public HolidayCalendar toEntity(HolidayCalendarRequest request) {
+        HolidayCalendar calendar = new HolidayCalendar();
+        calendar.setName(request.getName());
+        calendar.setCreationDate(LocalDateTime.now());
+        calendar.setRules(request.getRules().stream()
+                .map(this::toRule)
+                .collect(Collectors.toList()));
+        return calendar;
+    }
+
+    @Override
+    public HolidayRule toRule(HolidayRuleRequest request) {
+        HolidayRule rule = new HolidayRule();
+        rule.setName(request.getName());
+        rule.setType(request.getType());
+        rule.setMonth(request.getMonth());
+        rule.setDayOfMonth(request.getDayOfMonth());
+        rule.setDayOfWeek(request.getDayOfWeek());
+        rule.setWeekOfMonth(request.getWeekOfMonth());
+        rule.setEasterOffset(request.getEasterOffset());
+        return rule;
+    }
+}
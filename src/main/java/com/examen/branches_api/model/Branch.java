@@ -24,9 +24,12 @@ public class Branch {
     private LocalDateTime creationDate;
     private LocalDateTime lastModifiedDate;
     private List<BranchHoliday> branchHolidays;
+    private List<HolidayRule> holidayRules;
+    private String calendarId;
 
     public Branch() {
         this.branchHolidays = new ArrayList<>();
+        this.holidayRules = new ArrayList<>();
         this.state = "ACTIVE";
     }
 
@@ -0,0 +1,32 @@
+package com.examen.branches_api.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plantilla de reglas de feriados compartida entre sucursales. Es inmutable una vez creada: no se actualiza
+ * ni se elimina, lo que permite a {@code HolidayRuleResolver} memorizar sus años resueltos sin versión.
+ * Para cambiar las reglas de una sucursal se crea un nuevo calendario y se reasigna.
+ */
+@Getter
+@Setter
+@Document(collection = "holiday_calendars")
+public class HolidayCalendar {
+
+    @Id
+    private String id;
+
+    private String name;
+    private LocalDateTime creationDate;
+    private List<HolidayRule> rules;
+
+    public HolidayCalendar() {
+        this.rules = new ArrayList<>();
+    }
+}
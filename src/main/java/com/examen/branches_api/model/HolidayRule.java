@@ -0,0 +1,30 @@
+package com.examen.branches_api.model;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+
+/**
+ * Regla de feriado recurrente que se evalúa para cada año en lugar de almacenar una fecha concreta.
+ * <ul>
+ *     <li>{@code FIXED_DATE}: {@code month} y {@code dayOfMonth} (ej. 25 de diciembre).</li>
+ *     <li>{@code NTH_WEEKDAY}: {@code month}, {@code dayOfWeek} y {@code weekOfMonth} (1-5, o -1 para el último).</li>
+ *     <li>{@code EASTER_RELATIVE}: {@code easterOffset} en días respecto al domingo de Pascua (ej. -2 para Viernes Santo).</li>
+ * </ul>
+ */
+@Getter
+@Setter
+public class HolidayRule {
+
+    private String name;
+    private HolidayRuleType type;
+    private Integer month;
+    private Integer dayOfMonth;
+    private DayOfWeek dayOfWeek;
+    private Integer weekOfMonth;
+    private Integer easterOffset;
+
+    public HolidayRule() {
+    }
+}
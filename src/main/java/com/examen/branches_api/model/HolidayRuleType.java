@@ -0,0 +1,8 @@
+package com.examen.branches_api.model;
+
+public enum HolidayRuleType {
+
+    FIXED_DATE,
+    NTH_WEEKDAY,
+    EASTER_RELATIVE
+}
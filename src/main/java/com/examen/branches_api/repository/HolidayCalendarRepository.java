@@ -0,0 +1,9 @@
+package com.examen.branches_api.repository;
+
+import com.examen.branches_api.model.HolidayCalendar;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface HolidayCalendarRepository extends MongoRepository<HolidayCalendar, String> {
+}
@@ -4,12 +4,18 @@ import com.examen.branches_api.dto.BranchHolidayRequest;
 import com.examen.branches_api.dto.BranchRequest;
 import com.examen.branches_api.dto.BranchResponse;
 import com.examen.branches_api.dto.HolidayCheckResponse;
+import com.examen.branches_api.dto.HolidayRuleRequest;
 import com.examen.branches_api.exception.BranchNotFoundException;
+import com.examen.branches_api.exception.HolidayCalendarNotFoundException;
 import com.examen.branches_api.exception.HolidayNotFoundException;
 import com.examen.branches_api.mapper.BranchMapper;
+import com.examen.branches_api.mapper.HolidayCalendarMapper;
 import com.examen.branches_api.model.Branch;
 import com.examen.branches_api.model.BranchHoliday;
+import com.examen.branches_api.model.HolidayCalendar;
+import com.examen.branches_api.model.HolidayRule;
 import com.examen.branches_api.repository.BranchRepository;
+import com.examen.branches_api.repository.HolidayCalendarRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,6 +35,9 @@ public class BranchService {
 
     private final BranchRepository branchRepository;
     private final BranchMapper branchMapper;
+    private final HolidayCalendarRepository holidayCalendarRepository;
+    private final HolidayCalendarMapper holidayCalendarMapper;
+    private final HolidayRuleResolver holidayRuleResolver;
 
     @Transactional(readOnly = true)
     public List<BranchResponse> getAllBranches() {
@@ -138,6 +147,111 @@ public class BranchService {
         return holidays;
     }
 
+    @Transactional
+    public BranchResponse addHolidayRules(String id, List<HolidayRuleRequest> ruleRequests) {
+        log.info("Adding {} holiday rules to branch ID: {}", ruleRequests.size(), id);
+
+        Branch branch = this.branchRepository.findById(id)
+                .orElseThrow(() -> new BranchNotFoundException("Branch not found with ID: " + id));
+
+        List<HolidayRule> rules = ruleRequests.stream()
+                .map(this.holidayCalendarMapper::toRule)
+                .collect(Collectors.toList());
+        rules.forEach(this.holidayRuleResolver::validate);
+
+        if (branch.getHolidayRules() == null) {
+            branch.setHolidayRules(new ArrayList<>());
+        }
+        branch.getHolidayRules().addAll(rules);
+        branch.setLastModifiedDate(LocalDateTime.now());
+
+        Branch updatedBranch = this.branchRepository.save(branch);
+        this.holidayRuleResolver.evict(branchRulesKey(id));
+        log.info("Holiday rules added successfully to branch: {}", updatedBranch.getName());
+
+        return this.branchMapper.toResponse(updatedBranch);
+    }
+
+    @Transactional
+    public BranchResponse deleteHolidayRule(String id, String name) {
+        log.info("Deleting holiday rule {} from branch ID: {}", name, id);
+
+        Branch branch = this.branchRepository.findById(id)
+                .orElseThrow(() -> new BranchNotFoundException("Branch not found with ID: " + id));
+
+        if (branch.getHolidayRules() == null || branch.getHolidayRules().isEmpty()) {
+            throw new HolidayNotFoundException("No holiday rules found for branch ID: " + id);
+        }
+
+        boolean removed = branch.getHolidayRules().removeIf(r -> r.getName().equals(name));
+
+        if (!removed) {
+            throw new HolidayNotFoundException("Holiday rule not found with name: " + name);
+        }
+
+        branch.setLastModifiedDate(LocalDateTime.now());
+        Branch updatedBranch = this.branchRepository.save(branch);
+        this.holidayRuleResolver.evict(branchRulesKey(id));
+        log.info("Holiday rule deleted successfully from branch: {}", updatedBranch.getName());
+
+        return this.branchMapper.toResponse(updatedBranch);
+    }
+
+    @Transactional(readOnly = true)
+    public List<HolidayRule> getHolidayRules(String id) {
+        log.info("Fetching holiday rules for branch ID: {}", id);
+
+        Branch branch = this.branchRepository.findById(id)
+                .orElseThrow(() -> new BranchNotFoundException("Branch not found with ID: " + id));
+
+        List<HolidayRule> rules = branch.getHolidayRules() != null
+                ? branch.getHolidayRules()
+                : new ArrayList<>();
+
+        log.info("Found {} holiday rules for branch: {}", rules.size(), branch.getName());
+        return rules;
+    }
+
+    @Transactional
+    public BranchResponse assignCalendar(String id, String calendarId) {
+        log.info("Assigning holiday calendar {} to branch ID: {}", calendarId, id);
+
+        Branch branch = this.branchRepository.findById(id)
+                .orElseThrow(() -> new BranchNotFoundException("Branch not found with ID: " + id));
+
+        if (!this.holidayCalendarRepository.existsById(calendarId)) {
+            throw new HolidayCalendarNotFoundException("Holiday calendar not found with ID: " + calendarId);
+        }
+
+        branch.setCalendarId(calendarId);
+        branch.setLastModifiedDate(LocalDateTime.now());
+
+        Branch updatedBranch = this.branchRepository.save(branch);
+        log.info("Holiday calendar assigned successfully to branch: {}", updatedBranch.getName());
+
+        return this.branchMapper.toResponse(updatedBranch);
+    }
+
+    @Transactional
+    public BranchResponse unassignCalendar(String id) {
+        log.info("Unassigning holiday calendar from branch ID: {}", id);
+
+        Branch branch = this.branchRepository.findById(id)
+                .orElseThrow(() -> new BranchNotFoundException("Branch not found with ID: " + id));
+
+        if (branch.getCalendarId() == null) {
+            throw new HolidayCalendarNotFoundException("No holiday calendar assigned to branch ID: " + id);
+        }
+
+        branch.setCalendarId(null);
+        branch.setLastModifiedDate(LocalDateTime.now());
+
+        Branch updatedBranch = this.branchRepository.save(branch);
+        log.info("Holiday calendar unassigned successfully from branch: {}", updatedBranch.getName());
+
+        return this.branchMapper.toResponse(updatedBranch);
+    }
+
     @Transactional(readOnly = true)
     public HolidayCheckResponse isHoliday(String id, LocalDate date) {
         log.info("Checking if {} is a holiday for branch ID: {}", date, id);
@@ -145,19 +259,40 @@ public class BranchService {
         Branch branch = this.branchRepository.findById(id)
                 .orElseThrow(() -> new BranchNotFoundException("Branch not found with ID: " + id));
 
-        Optional<BranchHoliday> holiday = Optional.empty();
+        Optional<String> holidayName = Optional.empty();
         if (branch.getBranchHolidays() != null) {
-            holiday = branch.getBranchHolidays().stream()
+            holidayName = branch.getBranchHolidays().stream()
                     .filter(h -> h.getDate().equals(date))
+                    .map(BranchHoliday::getName)
                     .findFirst();
         }
+        if (holidayName.isEmpty()) {
+            holidayName = Optional.ofNullable(this.holidayRuleResolver
+                    .resolve(branchRulesKey(id), branch.getLastModifiedDate(), date.getYear(), branch::getHolidayRules)
+                    .get(date));
+        }
+        if (holidayName.isEmpty() && branch.getCalendarId() != null) {
+            String calendarId = branch.getCalendarId();
+            holidayName = Optional.ofNullable(this.holidayRuleResolver
+                    .resolve(calendarRulesKey(calendarId), null, date.getYear(), () -> this.holidayCalendarRepository.findById(calendarId)
+                            .map(HolidayCalendar::getRules)
+                            .orElseThrow(() -> new HolidayCalendarNotFoundException("Holiday calendar not found with ID: " + calendarId)))
+                    .get(date));
+        }
 
-        boolean isHoliday = holiday.isPresent();
-        String holidayName = holiday.map(BranchHoliday::getName).orElse(null);
+        boolean isHoliday = holidayName.isPresent();
 
-        log.info("Date {} is {} for branch: {}", date, isHoliday ? "a holiday (" + holidayName + ")" : "not a holiday",
+        log.info("Date {} is {} for branch: {}", date, isHoliday ? "a holiday (" + holidayName.get() + ")" : "not a holiday",
                 branch.getName());
 
-        return new HolidayCheckResponse(id, date, isHoliday, holidayName);
+        return new HolidayCheckResponse(id, date, isHoliday, holidayName.orElse(null));
+    }
+
+    private static String branchRulesKey(String id) {
+        return "branch:" + id;
+    }
+
+    private static String calendarRulesKey(String calendarId) {
+        return "calendar:" + calendarId;
     }
 }
@@ -0,0 +1,56 @@
+package com.examen.branches_api.service;
+
+import com.examen.branches_api.dto.HolidayCalendarRequest;
+import com.examen.branches_api.dto.HolidayCalendarResponse;
+import com.examen.branches_api.exception.HolidayCalendarNotFoundException;
+import com.examen.branches_api.mapper.HolidayCalendarMapper;
+import com.examen.branches_api.model.HolidayCalendar;
+import com.examen.branches_api.repository.HolidayCalendarRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class HolidayCalendarService {
+
+    private final HolidayCalendarRepository holidayCalendarRepository;
+    private final HolidayCalendarMapper holidayCalendarMapper;
+    private final HolidayRuleResolver holidayRuleResolver;
+
+    @Transactional(readOnly = true)
+    public List<HolidayCalendarResponse> getAllCalendars() {
+        log.info("Fetching all holiday calendars");
+        List<HolidayCalendar> calendars = this.holidayCalendarRepository.findAll();
+        log.info("Found {} holiday calendars", calendars.size());
+        return calendars.stream()
+                .map(this.holidayCalendarMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public HolidayCalendarResponse createCalendar(HolidayCalendarRequest request) {
+        log.info("Creating new holiday calendar with name: {}", request.getName());
+
+        HolidayCalendar calendar = this.holidayCalendarMapper.toEntity(request);
+        calendar.getRules().forEach(this.holidayRuleResolver::validate);
+        HolidayCalendar savedCalendar = this.holidayCalendarRepository.save(calendar);
+
+        log.info("Holiday calendar created successfully with ID: {}", savedCalendar.getId());
+        return this.holidayCalendarMapper.toResponse(savedCalendar);
+    }
+
+    @Transactional(readOnly = true)
+    public HolidayCalendarResponse getCalendarById(String id) {
+        log.info("Fetching holiday calendar with ID: {}", id);
+        HolidayCalendar calendar = this.holidayCalendarRepository.findById(id)
+                .orElseThrow(() -> new HolidayCalendarNotFoundException("Holiday calendar not found with ID: " + id));
+        log.info("Holiday calendar found: {}", calendar.getName());
+        return this.holidayCalendarMapper.toResponse(calendar);
+    }
+}
@@ -0,0 +1,153 @@
+package com.examen.branches_api.service;
+
+import com.examen.branches_api.exception.InvalidHolidayRuleException;
+import com.examen.branches_api.model.HolidayRule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Evalúa reglas de feriados recurrentes bajo demanda y memoriza el resultado por propietario y año,
+ * de modo que cada combinación se calcula una sola vez y las consultas posteriores son búsquedas directas.
+ * La versión del propietario (ej. su fecha de modificación) invalida el año calculado cuando cambia; los
+ * calendarios son inmutables y se memorizan sin versión. La caché es LRU y está limitada a
+ * {@code branches.holiday-rules.cache-size} entradas, ya que el año proviene de la petición.
+ */
+@Slf4j
+@Component
+public class HolidayRuleResolver {
+
+    private final Map<CacheKey, ResolvedYear> cache;
+
+    public HolidayRuleResolver(@Value("${branches.holiday-rules.cache-size:1000}") int maxEntries) {
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, ResolvedYear> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public Map<LocalDate, String> resolve(String owner, Object version, int year, Supplier<List<HolidayRule>> rules) {
+        CacheKey key = new CacheKey(owner, year);
+        synchronized (this.cache) {
+            ResolvedYear cached = this.cache.get(key);
+            if (cached != null && Objects.equals(cached.version(), version)) {
+                return cached.holidays();
+            }
+        }
+
+        List<HolidayRule> ownerRules = rules.get();
+        if (ownerRules == null || ownerRules.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<LocalDate, String> holidays = this.expand(owner, year, ownerRules);
+        synchronized (this.cache) {
+            this.cache.put(key, new ResolvedYear(version, holidays));
+        }
+        return holidays;
+    }
+
+    public void evict(String owner) {
+        log.info("Evicting resolved holidays for {}", owner);
+        synchronized (this.cache) {
+            this.cache.keySet().removeIf(key -> key.owner().equals(owner));
+        }
+    }
+
+    public void validate(HolidayRule rule) {
+        switch (rule.getType()) {
+            case FIXED_DATE -> {
+                if (rule.getMonth() == null || rule.getDayOfMonth() == null) {
+                    throw new InvalidHolidayRuleException("FIXED_DATE rule '" + rule.getName() + "' requires month and dayOfMonth");
+                }
+                try {
+                    MonthDay.of(rule.getMonth(), rule.getDayOfMonth());
+                } catch (DateTimeException ex) {
+                    throw new InvalidHolidayRuleException("FIXED_DATE rule '" + rule.getName() + "' has an invalid date: " + ex.getMessage());
+                }
+            }
+            case NTH_WEEKDAY -> {
+                if (rule.getMonth() == null || rule.getDayOfWeek() == null || rule.getWeekOfMonth() == null) {
+                    throw new InvalidHolidayRuleException("NTH_WEEKDAY rule '" + rule.getName() + "' requires month, dayOfWeek and weekOfMonth");
+                }
+                if (rule.getWeekOfMonth() == 0) {
+                    throw new InvalidHolidayRuleException("NTH_WEEKDAY rule '" + rule.getName() + "' requires weekOfMonth between 1 and 5, or -1");
+                }
+            }
+            case EASTER_RELATIVE -> {
+                if (rule.getEasterOffset() == null) {
+                    throw new InvalidHolidayRuleException("EASTER_RELATIVE rule '" + rule.getName() + "' requires easterOffset");
+                }
+            }
+        }
+    }
+
+    public LocalDate dateFor(HolidayRule rule, int year) {
+        return switch (rule.getType()) {
+            case FIXED_DATE -> {
+                MonthDay monthDay = MonthDay.of(rule.getMonth(), rule.getDayOfMonth());
+                yield monthDay.isValidYear(year) ? monthDay.atYear(year) : null;
+            }
+            case NTH_WEEKDAY -> {
+                LocalDate date = LocalDate.of(year, rule.getMonth(), 1)
+                        .with(TemporalAdjusters.dayOfWeekInMonth(rule.getWeekOfMonth(), rule.getDayOfWeek()));
+                yield date.getMonthValue() == rule.getMonth() ? date : null;
+            }
+            case EASTER_RELATIVE -> {
+                LocalDate date = easterSunday(year).plusDays(rule.getEasterOffset());
+                yield date.getYear() == year ? date : null;
+            }
+        };
+    }
+
+    static LocalDate easterSunday(int year) {
+        int a = year % 19;
+        int b = year / 100;
+        int c = year % 100;
+        int d = b / 4;
+        int e = b % 4;
+        int f = (b + 8) / 25;
+        int g = (b - f + 1) / 3;
+        int h = (19 * a + b - d - g + 15) % 30;
+        int i = c / 4;
+        int k = c % 4;
+        int l = (32 + 2 * e + 2 * i - h - k) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int month = (h + l - 7 * m + 114) / 31;
+        int day = ((h + l - 7 * m + 114) % 31) + 1;
+        return LocalDate.of(year, month, day);
+    }
+
+    private Map<LocalDate, String> expand(String owner, int year, List<HolidayRule> rules) {
+        Map<LocalDate, String> holidays = new HashMap<>();
+        for (HolidayRule rule : rules) {
+            LocalDate date = this.dateFor(rule, year);
+            if (date != null) {
+                holidays.putIfAbsent(date, rule.getName());
+            }
+        }
+
+        log.info("Resolved {} rule holidays in {} for {}", holidays.size(), year, owner);
+        return Collections.unmodifiableMap(holidays);
+    }
+
+    private record CacheKey(String owner, int year) {
+    }
+
+    private record ResolvedYear(Object version, Map<LocalDate, String> holidays) {
+    }
+}
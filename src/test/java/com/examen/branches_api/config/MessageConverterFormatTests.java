@@ -0,0 +1,118 @@
+package com.examen.branches_api.config;
+
+import com.examen.branches_api.dto.BranchResponse;
+import com.examen.branches_api.model.BranchHoliday;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara tamaño de payload y tiempo de codificación/decodificación de {@link BranchResponse} en JSON, CBOR y Smile.
+ * Las mediciones de tiempo se ejecutan solo con el perfil {@code benchmark} ({@code mvn test -Pbenchmark}).
+ */
+@Slf4j
+class MessageConverterFormatTests {
+
+	private static final int WARMUP_ITERATIONS = 2_000;
+	private static final int MEASURED_ITERATIONS = 5_000;
+
+	private final BranchResponse branch = sampleBranch(200);
+
+	@Test
+	void binaryFormatsRoundTripWithSmallerPayloads() throws Exception {
+		Map<String, Integer> sizes = new LinkedHashMap<>();
+		for (Map.Entry<String, ObjectMapper> entry : mappers().entrySet()) {
+			ObjectMapper mapper = entry.getValue();
+			byte[] payload = mapper.writeValueAsBytes(this.branch);
+
+			BranchResponse decoded = mapper.readValue(payload, BranchResponse.class);
+			assertThat(decoded.getId()).isEqualTo(this.branch.getId());
+			assertThat(decoded.getLastModifiedDate()).isEqualTo(this.branch.getLastModifiedDate());
+			assertThat(decoded.getBranchHolidays()).hasSameSizeAs(this.branch.getBranchHolidays());
+			assertThat(decoded.getBranchHolidays().get(0).getDate())
+					.isEqualTo(this.branch.getBranchHolidays().get(0).getDate());
+
+			sizes.put(entry.getKey(), payload.length);
+		}
+
+		assertThat(sizes.get("cbor")).isLessThan(sizes.get("json"));
+		assertThat(sizes.get("smile")).isLessThan(sizes.get("json"));
+	}
+
+	@Test
+	@Tag("benchmark")
+	void measureEncodeDecodeTimes() throws Exception {
+		for (Map.Entry<String, ObjectMapper> entry : mappers().entrySet()) {
+			ObjectMapper mapper = entry.getValue();
+			byte[] payload = mapper.writeValueAsBytes(this.branch);
+
+			for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+				mapper.readValue(mapper.writeValueAsBytes(this.branch), BranchResponse.class);
+			}
+
+			long encodeStart = System.nanoTime();
+			for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+				mapper.writeValueAsBytes(this.branch);
+			}
+			long encodeNanos = (System.nanoTime() - encodeStart) / MEASURED_ITERATIONS;
+
+			long decodeStart = System.nanoTime();
+			for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+				mapper.readValue(payload, BranchResponse.class);
+			}
+			long decodeNanos = (System.nanoTime() - decodeStart) / MEASURED_ITERATIONS;
+
+			log.info("{} size={} bytes encode={} ns decode={} ns",
+					entry.getKey(), payload.length, encodeNanos, decodeNanos);
+		}
+	}
+
+	private static Map<String, ObjectMapper> mappers() {
+		Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+		mappers.put("json", mapper(new JsonFactory()));
+		mappers.put("cbor", mapper(new CBORFactory()));
+		mappers.put("smile", mapper(new SmileFactory()));
+		return mappers;
+	}
+
+	private static ObjectMapper mapper(JsonFactory factory) {
+		return Jackson2ObjectMapperBuilder.json()
+				.factory(factory)
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+				.build();
+	}
+
+	private static BranchResponse sampleBranch(int holidayCount) {
+		List<BranchHoliday> holidays = new ArrayList<>();
+		LocalDate start = LocalDate.of(2024, 1, 1);
+		for (int i = 0; i < holidayCount; i++) {
+			holidays.add(new BranchHoliday(start.plusDays(i * 7L), "Feriado " + i));
+		}
+
+		BranchResponse response = new BranchResponse();
+		response.setId("675265a3b5e4f9001234abcd");
+		response.setName("Sucursal Centro");
+		response.setEmailAddress("centro@banquito.com");
+		response.setPhoneNumber("0991234567");
+		response.setState("ACTIVE");
+		response.setCreationDate(LocalDateTime.of(2024, 12, 17, 10, 0));
+		response.setLastModifiedDate(LocalDateTime.of(2024, 12, 17, 10, 0));
+		response.setBranchHolidays(holidays);
+		return response;
+	}
+}
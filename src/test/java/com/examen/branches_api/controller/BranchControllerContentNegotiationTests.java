@@ -0,0 +1,88 @@
+package com.examen.branches_api.controller;
+
+import com.examen.branches_api.config.MessageConverterConfig;
+import com.examen.branches_api.dto.BranchResponse;
+import com.examen.branches_api.model.BranchHoliday;
+import com.examen.branches_api.service.BranchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BranchController.class)
+@Import(MessageConverterConfig.class)
+class BranchControllerContentNegotiationTests {
+
+	private static final String BRANCH_URL = "/api/branches_api/v1/branch/{id}";
+	private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private BranchService branchService;
+
+	@BeforeEach
+	void setUp() {
+		BranchResponse response = new BranchResponse();
+		response.setId("b1");
+		response.setName("Sucursal Centro");
+		response.setState("ACTIVE");
+		response.setCreationDate(LocalDateTime.of(2024, 12, 17, 10, 0));
+		response.setLastModifiedDate(LocalDateTime.of(2024, 12, 17, 10, 0));
+		response.setBranchHolidays(List.of(new BranchHoliday(LocalDate.of(2024, 12, 25), "Navidad")));
+		when(this.branchService.getBranchById("b1")).thenReturn(response);
+	}
+
+	@Test
+	void defaultsToJsonWithoutAcceptHeader() throws Exception {
+		this.mockMvc.perform(get(BRANCH_URL, "b1"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+				.andExpect(jsonPath("$.id").value("b1"));
+	}
+
+	@Test
+	void returnsCborWhenAccepted() throws Exception {
+		MvcResult result = this.mockMvc.perform(get(BRANCH_URL, "b1").accept(MediaType.APPLICATION_CBOR))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+				.andReturn();
+
+		ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+		BranchResponse decoded = cborMapper.readValue(result.getResponse().getContentAsByteArray(), BranchResponse.class);
+		assertThat(decoded.getId()).isEqualTo("b1");
+		assertThat(decoded.getLastModifiedDate()).isEqualTo(LocalDateTime.of(2024, 12, 17, 10, 0));
+		assertThat(decoded.getBranchHolidays()).extracting(BranchHoliday::getName).containsExactly("Navidad");
+	}
+
+	@Test
+	void returnsSmileWhenAccepted() throws Exception {
+		MvcResult result = this.mockMvc.perform(get(BRANCH_URL, "b1").accept(SMILE))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(SMILE))
+				.andReturn();
+
+		ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+		BranchResponse decoded = smileMapper.readValue(result.getResponse().getContentAsByteArray(), BranchResponse.class);
+		assertThat(decoded.getId()).isEqualTo("b1");
+	}
+}
@@ -0,0 +1,51 @@
+package com.examen.branches_api.controller;
+
+import com.examen.branches_api.service.BranchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BranchController.class)
+class BranchControllerValidationTests {
+
+	private static final String HOLIDAY_RULE_URL = "/api/branches_api/v1/branch/{id}/holiday-rule";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private BranchService branchService;
+
+	@Test
+	void rejectsRuleWithInvalidFields() throws Exception {
+		this.mockMvc.perform(post(HOLIDAY_RULE_URL, "b1")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("[{\"type\":\"NTH_WEEKDAY\",\"month\":13,\"weekOfMonth\":9}]"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.error").value("Validation Error"));
+
+		verify(this.branchService, never()).addHolidayRules(anyString(), any());
+	}
+
+	@Test
+	void rejectsNullRule() throws Exception {
+		this.mockMvc.perform(post(HOLIDAY_RULE_URL, "b1")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("[null]"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.error").value("Validation Error"));
+
+		verify(this.branchService, never()).addHolidayRules(anyString(), any());
+	}
+}
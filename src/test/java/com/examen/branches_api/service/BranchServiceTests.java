@@ -0,0 +1,159 @@
+package com.examen.branches_api.service;
+
+import com.examen.branches_api.dto.HolidayCheckResponse;
+import com.examen.branches_api.dto.HolidayRuleRequest;
+import com.examen.branches_api.exception.HolidayCalendarNotFoundException;
+import com.examen.branches_api.mapper.BranchMapperImpl;
+import com.examen.branches_api.mapper.HolidayCalendarMapperImpl;
+import com.examen.branches_api.model.Branch;
+import com.examen.branches_api.model.BranchHoliday;
+import com.examen.branches_api.model.HolidayCalendar;
+import com.examen.branches_api.model.HolidayRule;
+import com.examen.branches_api.model.HolidayRuleType;
+import com.examen.branches_api.repository.BranchRepository;
+import com.examen.branches_api.repository.HolidayCalendarRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BranchServiceTests {
+
+	private static final String BRANCH_ID = "b1";
+	private static final String CALENDAR_ID = "ec";
+
+	@Mock
+	private BranchRepository branchRepository;
+
+	@Mock
+	private HolidayCalendarRepository holidayCalendarRepository;
+
+	private BranchService branchService;
+	private Branch branch;
+
+	@BeforeEach
+	void setUp() {
+		this.branchService = new BranchService(this.branchRepository, new BranchMapperImpl(),
+				this.holidayCalendarRepository, new HolidayCalendarMapperImpl(), new HolidayRuleResolver(100));
+
+		this.branch = new Branch(BRANCH_ID);
+		this.branch.setName("Sucursal Centro");
+		this.branch.setLastModifiedDate(LocalDateTime.of(2024, 12, 17, 10, 0));
+		when(this.branchRepository.findById(BRANCH_ID)).thenReturn(Optional.of(this.branch));
+	}
+
+	@Test
+	void datedHolidayTakesPrecedenceOverRules() {
+		this.branch.getBranchHolidays().add(new BranchHoliday(LocalDate.of(2025, 12, 25), "Navidad sucursal"));
+		this.branch.getHolidayRules().add(fixedDate("Navidad", 12, 25));
+		this.branch.setCalendarId(CALENDAR_ID);
+
+		HolidayCheckResponse response = this.branchService.isHoliday(BRANCH_ID, LocalDate.of(2025, 12, 25));
+
+		assertThat(response.isHoliday()).isTrue();
+		assertThat(response.getHolidayName()).isEqualTo("Navidad sucursal");
+		verify(this.holidayCalendarRepository, never()).findById(any());
+	}
+
+	@Test
+	void branchRuleTakesPrecedenceOverCalendar() {
+		HolidayRule goodFriday = new HolidayRule();
+		goodFriday.setName("Viernes Santo");
+		goodFriday.setType(HolidayRuleType.EASTER_RELATIVE);
+		goodFriday.setEasterOffset(-2);
+		this.branch.getHolidayRules().add(goodFriday);
+		this.branch.setCalendarId(CALENDAR_ID);
+
+		HolidayCheckResponse response = this.branchService.isHoliday(BRANCH_ID, LocalDate.of(2025, 4, 18));
+
+		assertThat(response.isHoliday()).isTrue();
+		assertThat(response.getHolidayName()).isEqualTo("Viernes Santo");
+		verify(this.holidayCalendarRepository, never()).findById(any());
+	}
+
+	@Test
+	void calendarRuleHitIsLoadedOncePerYear() {
+		HolidayCalendar calendar = new HolidayCalendar();
+		calendar.setId(CALENDAR_ID);
+		calendar.getRules().add(fixedDate("Año Nuevo", 1, 1));
+		this.branch.setCalendarId(CALENDAR_ID);
+		when(this.holidayCalendarRepository.findById(CALENDAR_ID)).thenReturn(Optional.of(calendar));
+
+		HolidayCheckResponse first = this.branchService.isHoliday(BRANCH_ID, LocalDate.of(2025, 1, 1));
+		HolidayCheckResponse second = this.branchService.isHoliday(BRANCH_ID, LocalDate.of(2025, 1, 2));
+
+		assertThat(first.isHoliday()).isTrue();
+		assertThat(first.getHolidayName()).isEqualTo("Año Nuevo");
+		assertThat(second.isHoliday()).isFalse();
+		verify(this.holidayCalendarRepository, times(1)).findById(CALENDAR_ID);
+	}
+
+	@Test
+	void ruleAddedThroughServiceIsVisibleOnNextCheck() {
+		this.branch.getHolidayRules().add(fixedDate("Navidad", 12, 25));
+		when(this.branchRepository.save(any(Branch.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		LocalDate stStephen = LocalDate.of(2025, 12, 26);
+
+		assertThat(this.branchService.isHoliday(BRANCH_ID, LocalDate.of(2025, 12, 25)).isHoliday()).isTrue();
+		assertThat(this.branchService.isHoliday(BRANCH_ID, stStephen).isHoliday()).isFalse();
+
+		HolidayRuleRequest request = new HolidayRuleRequest();
+		request.setName("San Esteban");
+		request.setType(HolidayRuleType.FIXED_DATE);
+		request.setMonth(12);
+		request.setDayOfMonth(26);
+		this.branchService.addHolidayRules(BRANCH_ID, List.of(request));
+
+		HolidayCheckResponse response = this.branchService.isHoliday(BRANCH_ID, stStephen);
+		assertThat(response.isHoliday()).isTrue();
+		assertThat(response.getHolidayName()).isEqualTo("San Esteban");
+	}
+
+	@Test
+	void ruleEditedElsewhereIsVisibleWhenLastModifiedDateChanges() {
+		this.branch.getHolidayRules().add(fixedDate("Navidad", 12, 25));
+		assertThat(this.branchService.isHoliday(BRANCH_ID, LocalDate.of(2025, 12, 25)).isHoliday()).isTrue();
+
+		this.branch.setHolidayRules(new ArrayList<>(List.of(fixedDate("Fin de año", 12, 31))));
+		this.branch.setLastModifiedDate(LocalDateTime.of(2025, 1, 10, 9, 0));
+
+		assertThat(this.branchService.isHoliday(BRANCH_ID, LocalDate.of(2025, 12, 25)).isHoliday()).isFalse();
+		assertThat(this.branchService.isHoliday(BRANCH_ID, LocalDate.of(2025, 12, 31)).getHolidayName())
+				.isEqualTo("Fin de año");
+	}
+
+	@Test
+	void missingCalendarIsReported() {
+		this.branch.setCalendarId(CALENDAR_ID);
+		when(this.holidayCalendarRepository.findById(CALENDAR_ID)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> this.branchService.isHoliday(BRANCH_ID, LocalDate.of(2025, 1, 1)))
+				.isInstanceOf(HolidayCalendarNotFoundException.class)
+				.hasMessageContaining(CALENDAR_ID);
+	}
+
+	private static HolidayRule fixedDate(String name, int month, int dayOfMonth) {
+		HolidayRule rule = new HolidayRule();
+		rule.setName(name);
+		rule.setType(HolidayRuleType.FIXED_DATE);
+		rule.setMonth(month);
+		rule.setDayOfMonth(dayOfMonth);
+		return rule;
+	}
+}
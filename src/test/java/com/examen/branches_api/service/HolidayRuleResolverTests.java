@@ -0,0 +1,147 @@
+package com.examen.branches_api.service;
+
+import com.examen.branches_api.exception.InvalidHolidayRuleException;
+import com.examen.branches_api.model.HolidayRule;
+import com.examen.branches_api.model.HolidayRuleType;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HolidayRuleResolverTests {
+
+	private final HolidayRuleResolver resolver = new HolidayRuleResolver(2);
+
+	@Test
+	void computesEasterSunday() {
+		assertThat(HolidayRuleResolver.easterSunday(2024)).isEqualTo(LocalDate.of(2024, 3, 31));
+		assertThat(HolidayRuleResolver.easterSunday(2025)).isEqualTo(LocalDate.of(2025, 4, 20));
+		assertThat(HolidayRuleResolver.easterSunday(2026)).isEqualTo(LocalDate.of(2026, 4, 5));
+	}
+
+	@Test
+	void resolvesEachRuleType() {
+		HolidayRule christmas = rule("Navidad", HolidayRuleType.FIXED_DATE);
+		christmas.setMonth(12);
+		christmas.setDayOfMonth(25);
+
+		HolidayRule lastMonday = rule("Último lunes de mayo", HolidayRuleType.NTH_WEEKDAY);
+		lastMonday.setMonth(5);
+		lastMonday.setDayOfWeek(DayOfWeek.MONDAY);
+		lastMonday.setWeekOfMonth(-1);
+
+		HolidayRule goodFriday = rule("Viernes Santo", HolidayRuleType.EASTER_RELATIVE);
+		goodFriday.setEasterOffset(-2);
+
+		Map<LocalDate, String> holidays = this.resolver.resolve("branch:1", null, 2025,
+				() -> List.of(christmas, lastMonday, goodFriday));
+
+		assertThat(holidays)
+				.containsEntry(LocalDate.of(2025, 12, 25), "Navidad")
+				.containsEntry(LocalDate.of(2025, 5, 26), "Último lunes de mayo")
+				.containsEntry(LocalDate.of(2025, 4, 18), "Viernes Santo")
+				.hasSize(3);
+	}
+
+	@Test
+	void skipsDatesMissingInYear() {
+		HolidayRule leapDay = rule("Bisiesto", HolidayRuleType.FIXED_DATE);
+		leapDay.setMonth(2);
+		leapDay.setDayOfMonth(29);
+
+		HolidayRule fifthFriday = rule("Quinto viernes", HolidayRuleType.NTH_WEEKDAY);
+		fifthFriday.setMonth(2);
+		fifthFriday.setDayOfWeek(DayOfWeek.FRIDAY);
+		fifthFriday.setWeekOfMonth(5);
+
+		assertThat(this.resolver.dateFor(leapDay, 2025)).isNull();
+		assertThat(this.resolver.dateFor(leapDay, 2024)).isEqualTo(LocalDate.of(2024, 2, 29));
+		assertThat(this.resolver.dateFor(fifthFriday, 2025)).isNull();
+	}
+
+	@Test
+	void memoizesPerYearUntilVersionChanges() {
+		HolidayRule newYear = rule("Año Nuevo", HolidayRuleType.FIXED_DATE);
+		newYear.setMonth(1);
+		newYear.setDayOfMonth(1);
+		AtomicInteger loads = new AtomicInteger();
+
+		this.resolver.resolve("calendar:ec", "v1", 2025, () -> {
+			loads.incrementAndGet();
+			return List.of(newYear);
+		});
+		this.resolver.resolve("calendar:ec", "v1", 2025, () -> {
+			loads.incrementAndGet();
+			return List.of(newYear);
+		});
+		assertThat(loads).hasValue(1);
+
+		this.resolver.resolve("calendar:ec", "v2", 2025, () -> {
+			loads.incrementAndGet();
+			return List.of(newYear);
+		});
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedYearsBeyondMaxEntries() {
+		HolidayRule newYear = rule("Año Nuevo", HolidayRuleType.FIXED_DATE);
+		newYear.setMonth(1);
+		newYear.setDayOfMonth(1);
+		AtomicInteger loads = new AtomicInteger();
+		Supplier<List<HolidayRule>> rules = () -> {
+			loads.incrementAndGet();
+			return List.of(newYear);
+		};
+
+		this.resolver.resolve("calendar:ec", null, 2024, rules);
+		this.resolver.resolve("calendar:ec", null, 2025, rules);
+		this.resolver.resolve("calendar:ec", null, 2026, rules);
+		assertThat(loads).hasValue(3);
+
+		this.resolver.resolve("calendar:ec", null, 2026, rules);
+		assertThat(loads).hasValue(3);
+		this.resolver.resolve("calendar:ec", null, 2024, rules);
+		assertThat(loads).hasValue(4);
+	}
+
+	@Test
+	void doesNotMemoizeEmptyRuleLists() {
+		AtomicInteger loads = new AtomicInteger();
+
+		this.resolver.resolve("branch:empty", null, 2025, () -> {
+			loads.incrementAndGet();
+			return List.of();
+		});
+		Map<LocalDate, String> holidays = this.resolver.resolve("branch:empty", null, 2025, () -> {
+			loads.incrementAndGet();
+			return List.of();
+		});
+
+		assertThat(holidays).isEmpty();
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void rejectsIncompleteRules() {
+		HolidayRule rule = rule("Incompleta", HolidayRuleType.NTH_WEEKDAY);
+		rule.setMonth(3);
+
+		assertThatThrownBy(() -> this.resolver.validate(rule))
+				.isInstanceOf(InvalidHolidayRuleException.class);
+	}
+
+	private static HolidayRule rule(String name, HolidayRuleType type) {
+		HolidayRule rule = new HolidayRule();
+		rule.setName(name);
+		rule.setType(type);
+		return rule;
+	}
+}